@@ -60,6 +60,7 @@ public class AdvancedNotificationBuilder {
         // Si la liste est vide, supprimer la notification
         if (items.isEmpty()) {
             NotificationManagerCompat.from(context).cancel(notificationId);
+            QuotidTrace.record(QuotidTrace.EVENT_NOTIFICATION_CANCELLED, checklistId, notificationId);
             return;
         }
         
@@ -77,9 +78,11 @@ public class AdvancedNotificationBuilder {
         // Si la liste est vide, supprimer la notification
         if (items.isEmpty()) {
             NotificationManagerCompat.from(context).cancel(notificationId);
+            QuotidTrace.record(QuotidTrace.EVENT_NOTIFICATION_CANCELLED, checklistId, notificationId);
             return;
         }
         
+        boolean traced = QuotidTrace.beginSection(QuotidTrace.SECTION_UPDATE_NOTIFICATION);
         try {
             // Créer des vues personnalisées pour la notification
             RemoteViews collapsedView = new RemoteViews(context.getPackageName(), R.layout.notification_checklist_layout);
@@ -186,9 +189,11 @@ public class AdvancedNotificationBuilder {
             NotificationManagerCompat notificationManager = NotificationManagerCompat.from(context);
             notificationManager.notify(notificationId, notification);
             
-            Log.d(TAG, "Notification de liste mise à jour: id=" + notificationId + ", checklistId=" + checklistId);
+            QuotidTrace.record(QuotidTrace.EVENT_NOTIFICATION_UPDATED, checklistId, notificationId);
         } catch (Exception e) {
             Log.e(TAG, "Erreur lors de la création de la notification: " + e.getMessage(), e);
+        } finally {
+            QuotidTrace.endSection(traced);
         }
     }
 }
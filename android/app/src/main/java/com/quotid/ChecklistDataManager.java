@@ -78,6 +78,7 @@ public class ChecklistDataManager {
         checklists.put(checklistId, new ArrayList<>(items));
         
         // Sérialiser en JSON pour persistance
+        boolean traced = QuotidTrace.beginSection(QuotidTrace.SECTION_SAVE_CHECKLIST);
         try {
             JSONArray jsonArray = new JSONArray();
             for (ChecklistItem item : items) {
@@ -92,9 +93,11 @@ public class ChecklistDataManager {
                     .putString(KEY_PREFIX + checklistId, jsonArray.toString())
                     .apply();
             
-            Log.d(TAG, "Checklist sauvegardée: " + checklistId + " avec " + items.size() + " éléments");
+            QuotidTrace.record(QuotidTrace.EVENT_CHECKLIST_SAVED, checklistId, items.size());
         } catch (JSONException e) {
             Log.e(TAG, "Erreur lors de la sérialisation de la checklist: " + e.getMessage());
+        } finally {
+            QuotidTrace.endSection(traced);
         }
     }
     
@@ -114,6 +117,7 @@ public class ChecklistDataManager {
         }
         
         List<ChecklistItem> items = new ArrayList<>();
+        boolean traced = QuotidTrace.beginSection(QuotidTrace.SECTION_LOAD_CHECKLIST);
         try {
             JSONArray jsonArray = new JSONArray(json);
             for (int i = 0; i < jsonArray.length(); i++) {
@@ -127,9 +131,11 @@ public class ChecklistDataManager {
             // Mettre à jour le cache
             checklists.put(checklistId, new ArrayList<>(items));
             
-            Log.d(TAG, "Checklist chargée: " + checklistId + " avec " + items.size() + " éléments");
+            QuotidTrace.record(QuotidTrace.EVENT_CHECKLIST_LOADED, checklistId, items.size());
         } catch (JSONException e) {
             Log.e(TAG, "Erreur lors de la désérialisation de la checklist: " + e.getMessage());
+        } finally {
+            QuotidTrace.endSection(traced);
         }
         
         return items;
@@ -152,7 +158,7 @@ public class ChecklistDataManager {
         
         if (updated) {
             saveChecklist(checklistId, items);
-            Log.d(TAG, "État d'élément mis à jour: checklist=" + checklistId + ", item=" + itemId + ", checked=" + checked);
+            QuotidTrace.record(QuotidTrace.EVENT_ITEM_UPDATED, checklistId, itemId, checked ? 1 : 0);
         }
     }
     
@@ -167,7 +173,7 @@ public class ChecklistDataManager {
         }
         
         saveChecklist(checklistId, items);
-        Log.d(TAG, "Tous les éléments de la checklist " + checklistId + " mis à l'état checked=" + checked);
+        QuotidTrace.record(QuotidTrace.EVENT_ALL_ITEMS_UPDATED, checklistId, checked ? 1 : 0);
     }
     
     /**
@@ -176,6 +182,6 @@ public class ChecklistDataManager {
     public void deleteChecklist(String checklistId) {
         checklists.remove(checklistId);
         preferences.edit().remove(KEY_PREFIX + checklistId).apply();
-        Log.d(TAG, "Checklist supprimée: " + checklistId);
+        QuotidTrace.record(QuotidTrace.EVENT_CHECKLIST_DELETED, checklistId, 0);
     }
 }
@@ -0,0 +1,198 @@
+package com.quotid;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TimeZone;
+
+/**
+ * Moteur de statistiques de complétion basé sur des bitmaps journaliers.
+ *
+ * Pour chaque catégorie, on garde un bitmap des jours ayant au moins une tâche terminée
+ * et le nombre de complétions par jour dans un tableau primitif. Les séries (streaks),
+ * la heatmap et la répartition par jour de la semaine se calculent alors par opérations
+ * bit à bit, sans relire la table stats.
+ */
+public class CompletionStatsEngine {
+    public static final int ALL_CATEGORIES = 0;
+    public static final int HEATMAP_DAYS = 365;
+
+    private static final long MILLIS_PER_DAY = 24L * 60 * 60 * 1000;
+    private static final int INITIAL_CAPACITY = 512;
+
+    // Instance singleton
+    private static CompletionStatsEngine instance;
+
+    // Données par catégorie (0 = toutes catégories confondues)
+    private final Map<Integer, CategoryDays> categories = new HashMap<>();
+
+    /**
+     * Jours de complétion d'une catégorie.
+     * Le bitmap est indexé par jour epoch local, les compteurs par (jour - baseDay).
+     */
+    private static class CategoryDays {
+        final BitSet days = new BitSet();
+        final int[] weekdayCounts = new int[7];
+        int[] counts;
+        int baseDay;
+
+        CategoryDays(int firstDay) {
+            // Laisser de la marge vers le passé pour éviter les réallocations
+            baseDay = firstDay - INITIAL_CAPACITY / 2;
+            counts = new int[INITIAL_CAPACITY];
+        }
+
+        int getCount(int day) {
+            int index = day - baseDay;
+            return index >= 0 && index < counts.length ? counts[index] : 0;
+        }
+
+        void add(int day, int delta) {
+            ensureCapacity(day);
+            int index = day - baseDay;
+            int previous = counts[index];
+            int updated = Math.max(0, previous + delta);
+            counts[index] = updated;
+            weekdayCounts[weekdayOf(day)] += updated - previous;
+
+            if (updated > 0) {
+                days.set(day);
+            } else {
+                days.clear(day);
+            }
+        }
+
+        private void ensureCapacity(int day) {
+            if (day < baseDay) {
+                int shift = Math.max(baseDay - day, counts.length / 2);
+                int[] grown = new int[counts.length + shift];
+                System.arraycopy(counts, 0, grown, shift, counts.length);
+                counts = grown;
+                baseDay -= shift;
+            } else if (day - baseDay >= counts.length) {
+                int[] grown = new int[Math.max(counts.length * 2, day - baseDay + 1)];
+                System.arraycopy(counts, 0, grown, 0, counts.length);
+                counts = grown;
+            }
+        }
+    }
+
+    /**
+     * Résultat d'un calcul de statistiques pour une catégorie.
+     */
+    public static class Snapshot {
+        public final int currentStreak;
+        public final int longestStreak;
+        public final int activeDays;
+        public final int[] heatmap;
+        public final int[] weekdayCounts;
+
+        Snapshot(int currentStreak, int longestStreak, int activeDays, int[] heatmap, int[] weekdayCounts) {
+            this.currentStreak = currentStreak;
+            this.longestStreak = longestStreak;
+            this.activeDays = activeDays;
+            this.heatmap = heatmap;
+            this.weekdayCounts = weekdayCounts;
+        }
+    }
+
+    private CompletionStatsEngine() {
+    }
+
+    /**
+     * Obtient l'instance singleton.
+     */
+    public static synchronized CompletionStatsEngine getInstance() {
+        if (instance == null) {
+            instance = new CompletionStatsEngine();
+        }
+        return instance;
+    }
+
+    /**
+     * Convertit un timestamp en numéro de jour dans le fuseau local.
+     */
+    public static int toLocalDay(long timestamp) {
+        long local = timestamp + TimeZone.getDefault().getOffset(timestamp);
+        return (int) Math.floorDiv(local, MILLIS_PER_DAY);
+    }
+
+    /**
+     * Jour de la semaine au format JavaScript (0 = dimanche).
+     * Le jour epoch 0 (1er janvier 1970) était un jeudi.
+     */
+    private static int weekdayOf(int day) {
+        return Math.floorMod(day + 4, 7);
+    }
+
+    /**
+     * Vide toutes les données (avant un rechargement complet).
+     */
+    public synchronized void clear() {
+        categories.clear();
+    }
+
+    /**
+     * Ajoute (delta > 0) ou retire (delta < 0) des complétions pour un jour donné.
+     */
+    public synchronized void record(int categoryId, long timestamp, int delta) {
+        if (delta == 0) return;
+
+        int day = toLocalDay(timestamp);
+        // Le bitmap est indexé par jour epoch : les dates antérieures à 1970 sont ignorées
+        if (day < 0) return;
+
+        categoryDays(ALL_CATEGORIES, day).add(day, delta);
+        if (categoryId != ALL_CATEGORIES) {
+            categoryDays(categoryId, day).add(day, delta);
+        }
+    }
+
+    /**
+     * Calcule série actuelle, plus longue série, heatmap sur 365 jours et
+     * répartition par jour de la semaine pour une catégorie.
+     */
+    public synchronized Snapshot getSnapshot(int categoryId, long todayTimestamp) {
+        int today = toLocalDay(todayTimestamp);
+        int[] heatmap = new int[HEATMAP_DAYS];
+        CategoryDays data = categories.get(categoryId);
+
+        if (data == null) {
+            return new Snapshot(0, 0, 0, heatmap, new int[7]);
+        }
+
+        BitSet days = data.days;
+
+        // Série actuelle : la journée en cours ne casse pas la série tant qu'elle n'est pas finie
+        int streakEnd = days.get(today) ? today : today - 1;
+        int currentStreak = 0;
+        if (streakEnd >= 0 && days.get(streakEnd)) {
+            currentStreak = streakEnd - days.previousClearBit(streakEnd);
+        }
+
+        // Plus longue série : parcours des plages de bits à 1, mot par mot
+        int longestStreak = 0;
+        for (int start = days.nextSetBit(0); start >= 0; ) {
+            int end = days.nextClearBit(start);
+            longestStreak = Math.max(longestStreak, end - start);
+            start = days.nextSetBit(end);
+        }
+
+        // Heatmap : index 0 = il y a 364 jours, dernier index = aujourd'hui
+        int firstDay = today - HEATMAP_DAYS + 1;
+        for (int day = days.nextSetBit(Math.max(firstDay, 0)); day >= 0 && day <= today; day = days.nextSetBit(day + 1)) {
+            heatmap[day - firstDay] = data.getCount(day);
+        }
+
+        return new Snapshot(currentStreak, longestStreak, days.cardinality(), heatmap, data.weekdayCounts.clone());
+    }
+
+    private CategoryDays categoryDays(int categoryId, int day) {
+        CategoryDays data = categories.get(categoryId);
+        if (data == null) {
+            data = new CategoryDays(day);
+            categories.put(categoryId, data);
+        }
+        return data;
+    }
+}
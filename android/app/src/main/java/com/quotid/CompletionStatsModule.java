@@ -0,0 +1,111 @@
+package com.quotid;
+
+import android.util.Log;
+
+import com.facebook.react.bridge.Arguments;
+import com.facebook.react.bridge.Promise;
+import com.facebook.react.bridge.ReactApplicationContext;
+import com.facebook.react.bridge.ReactContextBaseJavaModule;
+import com.facebook.react.bridge.ReactMethod;
+import com.facebook.react.bridge.ReadableArray;
+import com.facebook.react.bridge.ReadableMap;
+import com.facebook.react.bridge.WritableArray;
+import com.facebook.react.bridge.WritableMap;
+
+import java.util.HashMap;
+import java.util.Map;
+
+public class CompletionStatsModule extends ReactContextBaseJavaModule {
+    private static final String TAG = "CompletionStats";
+
+    private final CompletionStatsEngine engine = CompletionStatsEngine.getInstance();
+
+    public CompletionStatsModule(ReactApplicationContext reactContext) {
+        super(reactContext);
+    }
+
+    @Override
+    public String getName() {
+        return "CompletionStats";
+    }
+
+    @Override
+    public Map<String, Object> getConstants() {
+        final Map<String, Object> constants = new HashMap<>();
+        constants.put("ALL_CATEGORIES", CompletionStatsEngine.ALL_CATEGORIES);
+        constants.put("HEATMAP_DAYS", CompletionStatsEngine.HEATMAP_DAYS);
+        return constants;
+    }
+
+    /**
+     * Recharge entièrement le moteur à partir des complétions existantes.
+     *
+     * @param entries Tableau de {categoryId, date, count}
+     * @param promise Promesse à résoudre avec le nombre d'entrées chargées
+     */
+    @ReactMethod
+    public void loadCompletions(ReadableArray entries, Promise promise) {
+        try {
+            engine.clear();
+            for (int i = 0; i < entries.size(); i++) {
+                ReadableMap entry = entries.getMap(i);
+                engine.record(
+                        entry.getInt("categoryId"),
+                        (long) entry.getDouble("date"),
+                        entry.getInt("count")
+                );
+            }
+            promise.resolve(entries.size());
+        } catch (Exception e) {
+            Log.e(TAG, "Erreur lors du chargement des complétions", e);
+            promise.reject("load_error", "Erreur lors du chargement des complétions: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Met à jour le moteur de façon incrémentale quand un événement est coché ou décoché.
+     *
+     * @param categoryId La catégorie de l'événement
+     * @param timestamp La date de l'événement
+     * @param delta +1 si terminé, -1 si annulé
+     */
+    @ReactMethod
+    public void recordCompletion(int categoryId, double timestamp, int delta) {
+        engine.record(categoryId, (long) timestamp, delta);
+    }
+
+    /**
+     * Retourne séries, heatmap et répartition hebdomadaire en un seul appel.
+     *
+     * @param categoryId La catégorie (ALL_CATEGORIES pour toutes)
+     * @param todayTimestamp Le jour de référence
+     * @param promise Promesse à résoudre
+     */
+    @ReactMethod
+    public void getCompletionStats(int categoryId, double todayTimestamp, Promise promise) {
+        try {
+            CompletionStatsEngine.Snapshot snapshot = engine.getSnapshot(categoryId, (long) todayTimestamp);
+
+            WritableArray heatmap = Arguments.createArray();
+            for (int count : snapshot.heatmap) {
+                heatmap.pushInt(count);
+            }
+
+            WritableArray weekdays = Arguments.createArray();
+            for (int count : snapshot.weekdayCounts) {
+                weekdays.pushInt(count);
+            }
+
+            WritableMap result = Arguments.createMap();
+            result.putInt("currentStreak", snapshot.currentStreak);
+            result.putInt("longestStreak", snapshot.longestStreak);
+            result.putInt("activeDays", snapshot.activeDays);
+            result.putArray("heatmap", heatmap);
+            result.putArray("weekdayDistribution", weekdays);
+            promise.resolve(result);
+        } catch (Exception e) {
+            Log.e(TAG, "Erreur lors du calcul des statistiques", e);
+            promise.reject("stats_error", "Erreur lors du calcul des statistiques: " + e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,285 @@
+package com.quotid;
+
+import android.database.Cursor;
+import android.database.sqlite.SQLiteDatabase;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Index en mémoire des intervalles [start_time, end_time] des événements.
+ *
+ * Les intervalles sont triés par début dans des tableaux primitifs qui forment un arbre
+ * d'intervalles implicite : le nœud d'indice i au niveau k (k bits de poids faible à 1)
+ * a pour enfants i - 2^(k-1) et i + 2^(k-1), et stocke la fin maximale de son sous-arbre.
+ * Une requête "événements qui chevauchent [a, b]" coûte O(log n + résultats), y compris
+ * pour les événements sur plusieurs jours.
+ *
+ * Les ajouts et suppressions insèrent directement à leur place dans les tableaux triés
+ * (recherche dichotomique puis décalage), sans tri ni allocation ; seules les fins maximales
+ * sont recalculées, en un passage linéaire, à la requête suivante.
+ */
+public class EventIntervalIndex {
+    // En dessous de ce niveau, on parcourt le sous-arbre linéairement
+    private static final int LINEAR_SCAN_LEVEL = 3;
+    private static final int INITIAL_CAPACITY = 256;
+
+    // Instance singleton
+    private static EventIntervalIndex instance;
+
+    // Intervalles triés par début (une entrée = même indice dans chaque tableau)
+    private long[] ids = new long[INITIAL_CAPACITY];
+    private long[] starts = new long[INITIAL_CAPACITY];
+    private long[] ends = new long[INITIAL_CAPACITY];
+    private long[] maxEnds = new long[INITIAL_CAPACITY];
+    private int size;
+
+    // Début de chaque événement, pour le retrouver par dichotomie
+    private final Map<Long, Long> startById = new HashMap<>();
+
+    // Niveau de la racine, recalculé avec les fins maximales après modification
+    private int maxLevel = -1;
+    private boolean dirty;
+
+    // Faux tant que l'index n'a pas été chargé depuis la base
+    private boolean loaded;
+
+    // Visible dans le package pour les tests unitaires ; utiliser getInstance() sinon
+    EventIntervalIndex() {
+    }
+
+    /**
+     * Obtient l'instance singleton.
+     */
+    public static synchronized EventIntervalIndex getInstance() {
+        if (instance == null) {
+            instance = new EventIntervalIndex();
+        }
+        return instance;
+    }
+
+    public synchronized boolean isLoaded() {
+        return loaded;
+    }
+
+    /**
+     * Force un rechargement complet depuis la base à la prochaine requête.
+     */
+    public synchronized void invalidate() {
+        loaded = false;
+    }
+
+    /**
+     * Charge tous les intervalles depuis la table events.
+     * La requête est couverte par l'index idx_events_start_end et renvoie déjà les lignes triées.
+     */
+    public synchronized void load(SQLiteDatabase db) {
+        size = 0;
+        startById.clear();
+
+        try (Cursor cursor = db.rawQuery("SELECT id, start_time, end_time FROM events ORDER BY start_time", null)) {
+            while (cursor.moveToNext()) {
+                insertAt(size, cursor.getLong(0), cursor.getLong(1), cursor.getLong(2));
+            }
+        }
+
+        dirty = true;
+        loaded = true;
+    }
+
+    /**
+     * Ajoute ou met à jour l'intervalle d'un événement.
+     */
+    public synchronized void upsert(long id, long start, long end) {
+        remove(id);
+        insertAt(upperBound(start), id, start, end);
+        dirty = true;
+    }
+
+    /**
+     * Retire l'intervalle d'un événement.
+     */
+    public synchronized void remove(long id) {
+        Long start = startById.remove(id);
+        if (start == null) return;
+
+        // Parcourir les événements de même début à partir de la première position possible
+        for (int i = lowerBound(start); i < size && starts[i] == start; i++) {
+            if (ids[i] == id) {
+                int moved = size - i - 1;
+                System.arraycopy(ids, i + 1, ids, i, moved);
+                System.arraycopy(starts, i + 1, starts, i, moved);
+                System.arraycopy(ends, i + 1, ends, i, moved);
+                size--;
+                dirty = true;
+                return;
+            }
+        }
+    }
+
+    /**
+     * Retourne les IDs des événements qui chevauchent [from, to] (bornes incluses), triés par début.
+     */
+    public synchronized long[] queryOverlapping(long from, long to) {
+        if (dirty) {
+            maxLevel = buildMaxEnds(size);
+            dirty = false;
+        }
+
+        int n = size;
+        if (n == 0 || from > to) {
+            return new long[0];
+        }
+
+        long[] result = new long[16];
+        int count = 0;
+
+        // Pile de (niveau, indice, enfant gauche déjà traité)
+        int[] stackLevel = new int[64];
+        long[] stackIndex = new long[64];
+        boolean[] stackVisited = new boolean[64];
+        int top = 0;
+
+        stackLevel[top] = maxLevel;
+        stackIndex[top] = (1L << maxLevel) - 1;
+        stackVisited[top++] = false;
+
+        while (top > 0) {
+            top--;
+            int level = stackLevel[top];
+            long index = stackIndex[top];
+            boolean visited = stackVisited[top];
+
+            if (level <= LINEAR_SCAN_LEVEL) {
+                // Petit sous-arbre : parcours linéaire des indices qu'il couvre
+                long first = index >> level << level;
+                long last = Math.min(first + (1L << (level + 1)) - 1, n);
+                for (int i = (int) first; i < last && starts[i] <= to; i++) {
+                    if (ends[i] >= from) {
+                        if (count == result.length) {
+                            result = Arrays.copyOf(result, count * 2);
+                        }
+                        result[count++] = ids[i];
+                    }
+                }
+            } else if (!visited) {
+                // Revenir sur ce nœud après avoir traité l'enfant gauche
+                long left = index - (1L << (level - 1));
+                stackLevel[top] = level;
+                stackIndex[top] = index;
+                stackVisited[top++] = true;
+                if (left >= n || maxEnds[(int) left] >= from) {
+                    stackLevel[top] = level - 1;
+                    stackIndex[top] = left;
+                    stackVisited[top++] = false;
+                }
+            } else if (index < n && starts[(int) index] <= to) {
+                // Nœud courant puis enfant droit (les débuts y sont tous >= au nœud courant)
+                if (ends[(int) index] >= from) {
+                    if (count == result.length) {
+                        result = Arrays.copyOf(result, count * 2);
+                    }
+                    result[count++] = ids[(int) index];
+                }
+                stackLevel[top] = level - 1;
+                stackIndex[top] = index + (1L << (level - 1));
+                stackVisited[top++] = false;
+            }
+        }
+
+        return Arrays.copyOf(result, count);
+    }
+
+    /**
+     * Insère un intervalle à la position donnée en décalant la suite des tableaux.
+     */
+    private void insertAt(int position, long id, long start, long end) {
+        if (size == ids.length) {
+            int capacity = size * 2;
+            ids = Arrays.copyOf(ids, capacity);
+            starts = Arrays.copyOf(starts, capacity);
+            ends = Arrays.copyOf(ends, capacity);
+            maxEnds = new long[capacity];
+        }
+
+        int moved = size - position;
+        System.arraycopy(ids, position, ids, position + 1, moved);
+        System.arraycopy(starts, position, starts, position + 1, moved);
+        System.arraycopy(ends, position, ends, position + 1, moved);
+        ids[position] = id;
+        starts[position] = start;
+        ends[position] = end;
+        startById.put(id, start);
+        size++;
+    }
+
+    /**
+     * Première position dont le début est >= start.
+     */
+    private int lowerBound(long start) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (starts[mid] < start) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Première position dont le début est > start.
+     */
+    private int upperBound(long start) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (starts[mid] <= start) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Remplit maxEnds niveau par niveau et retourne le niveau de la racine.
+     */
+    private int buildMaxEnds(int n) {
+        if (n == 0) return -1;
+
+        // Feuilles (indices pairs)
+        long lastIndex = 0;
+        long lastMax = 0;
+        for (int i = 0; i < n; i += 2) {
+            lastIndex = i;
+            lastMax = maxEnds[i] = ends[i];
+        }
+
+        int level;
+        for (level = 1; (1L << level) <= n; level++) {
+            long half = 1L << (level - 1);
+            long step = half << 2;
+            for (long i = (half << 1) - 1; i < n; i += step) {
+                long leftMax = maxEnds[(int) (i - half)];
+                // Un enfant droit hors du tableau hérite du maximum du dernier sous-arbre existant
+                long rightMax = i + half < n ? maxEnds[(int) (i + half)] : lastMax;
+                maxEnds[(int) i] = Math.max(ends[(int) i], Math.max(leftMax, rightMax));
+            }
+
+            // Remonter le long du dernier chemin pour propager son maximum
+            lastIndex = ((lastIndex >> level) & 1) != 0 ? lastIndex - half : lastIndex + half;
+            if (lastIndex < n && maxEnds[(int) lastIndex] > lastMax) {
+                lastMax = maxEnds[(int) lastIndex];
+            }
+        }
+
+        return level - 1;
+    }
+}
@@ -0,0 +1,79 @@
+package com.quotid;
+
+import android.util.Log;
+
+import com.facebook.react.bridge.Arguments;
+import com.facebook.react.bridge.Promise;
+import com.facebook.react.bridge.ReactApplicationContext;
+import com.facebook.react.bridge.ReactContextBaseJavaModule;
+import com.facebook.react.bridge.ReactMethod;
+import com.facebook.react.bridge.WritableArray;
+
+public class EventIntervalsModule extends ReactContextBaseJavaModule {
+    private static final String TAG = "EventIntervals";
+
+    private final QuotidDatabase database;
+    private final EventIntervalIndex index = EventIntervalIndex.getInstance();
+
+    public EventIntervalsModule(ReactApplicationContext reactContext) {
+        super(reactContext);
+        this.database = QuotidDatabase.getInstance(reactContext);
+    }
+
+    @Override
+    public String getName() {
+        return "EventIntervals";
+    }
+
+    /**
+     * Retourne les IDs des événements qui chevauchent [from, to], triés par heure de début.
+     *
+     * @param from Début de la plage (timestamp)
+     * @param to Fin de la plage (timestamp)
+     * @param promise Promesse à résoudre avec le tableau d'IDs
+     */
+    @ReactMethod
+    public void getOverlappingEventIds(double from, double to, Promise promise) {
+        // Exécuté sur le thread de la base : le premier appel charge l'index depuis la table events
+        database.execute(() -> {
+            try {
+                if (!index.isLoaded()) {
+                    index.load(database.awaitDatabase());
+                }
+
+                WritableArray result = Arguments.createArray();
+                for (long id : index.queryOverlapping((long) from, (long) to)) {
+                    result.pushDouble(id);
+                }
+                promise.resolve(result);
+            } catch (Exception e) {
+                Log.e(TAG, "Erreur lors de la recherche d'événements", e);
+                promise.reject("interval_error", "Erreur lors de la recherche d'événements: " + e.getMessage(), e);
+            }
+        });
+    }
+
+    /**
+     * Ajoute ou met à jour l'intervalle d'un événement après son écriture en base.
+     */
+    @ReactMethod
+    public void upsertEvent(double id, double startTime, double endTime) {
+        database.execute(() -> index.upsert((long) id, (long) startTime, (long) endTime));
+    }
+
+    /**
+     * Retire un événement supprimé de l'index.
+     */
+    @ReactMethod
+    public void removeEvent(double id) {
+        database.execute(() -> index.remove((long) id));
+    }
+
+    /**
+     * Force le rechargement de l'index depuis la base à la prochaine requête.
+     */
+    @ReactMethod
+    public void invalidate() {
+        database.execute(index::invalidate);
+    }
+}
@@ -14,7 +14,10 @@ import com.facebook.soloader.SoLoader
 
 class MainApplication : Application(), ReactApplication {
 
-  override val reactNativeHost: ReactNativeHost =
+  // Chargement de SoLoader et du point d'entrée natif, différé jusqu'au premier besoin de React Native
+  private var isReactNativeLoaded = false
+
+  private val defaultReactNativeHost: ReactNativeHost =
       object : DefaultReactNativeHost(this) {
         override fun getPackages(): List<ReactPackage> =
             PackageList(this).packages.apply {
@@ -22,6 +25,10 @@ class MainApplication : Application(), ReactApplication {
               // add(MyReactNativePackage())
               add(ToastPackage()) // Ajout du package Toast existant
               add(AdvancedNotificationPackage()) // Ajout de notre nouveau package pour les notifications avancées
+              add(CompletionStatsPackage()) // Séries et heatmap de complétion
+              add(QuotidDatabasePackage()) // Ouverture native de la base
+              add(EventIntervalsPackage()) // Index des intervalles d'événements
+              add(QuotidTracePackage()) // Traces des notifications
             }
 
         override fun getJSMainModuleName(): String = "index"
@@ -32,15 +39,37 @@ class MainApplication : Application(), ReactApplication {
         override val isHermesEnabled: Boolean = BuildConfig.IS_HERMES_ENABLED
       }
 
+  override val reactNativeHost: ReactNativeHost
+    get() {
+      ensureReactNativeLoaded()
+      return defaultReactNativeHost
+    }
+
   override val reactHost: ReactHost
     get() = getDefaultReactHost(applicationContext, reactNativeHost)
 
   override fun onCreate() {
     super.onCreate()
+    // Rien d'autre ici : un processus démarré uniquement pour NotificationActionReceiver
+    // (tap sur une notification, application fermée) n'utilise ni React Native ni la base.
+    // L'initialisation se fait dans ensureReactNativeLoaded, depuis MainActivity ou les hosts.
+  }
+
+  /**
+   * Initialise SoLoader et le point d'entrée natif au premier appel, et lance l'ouverture
+   * de la base en arrière-plan pendant le chargement du JS. Les appels suivants ne font rien.
+   */
+  @Synchronized
+  fun ensureReactNativeLoaded() {
+    if (isReactNativeLoaded) return
+
+    QuotidDatabase.warmUp(this)
     SoLoader.init(this, OpenSourceMergedSoMapping)
     if (BuildConfig.IS_NEW_ARCHITECTURE_ENABLED) {
       // If you opted-in for the New Architecture, we load the native entry point for this app.
       load()
     }
+    // Seulement après succès : en cas d'exception, l'appel suivant réessaie et remonte l'erreur d'origine
+    isReactNativeLoaded = true
   }
 }
@@ -7,6 +7,8 @@ import android.content.BroadcastReceiver;
 import android.content.Context;
 import android.content.Intent;
 import android.os.Bundle;
+import android.os.Process;
+import android.os.SystemClock;
 import android.util.Log;
 import android.widget.RemoteViews;
 
@@ -33,18 +35,41 @@ public class NotificationActionReceiver extends BroadcastReceiver {
     public static final String EXTRA_CHECKLIST_ID = "checklist_id";
     public static final String EXTRA_ITEM_ID = "item_id";
     
+    // Vrai tant qu'aucune action n'a été traitée dans ce processus
+    private static boolean isFirstActionInProcess = true;
+    
     @Override
     public void onReceive(Context context, Intent intent) {
+        // Latence démarrage du processus -> première action (mesure du démarrage à froid)
+        if (isFirstActionInProcess) {
+            isFirstActionInProcess = false;
+            int elapsed = (int) (SystemClock.uptimeMillis() - Process.getStartUptimeMillis());
+            QuotidTrace.record(QuotidTrace.EVENT_FIRST_ACTION_AFTER_START, intent.getAction(), elapsed);
+        }
+        
+        boolean traced = QuotidTrace.beginSection(QuotidTrace.SECTION_RECEIVE_ACTION);
+        try {
+            handleAction(context, intent);
+        } finally {
+            QuotidTrace.endSection(traced);
+        }
+    }
+    
+    /**
+     * Applique l'action reçue à la liste et met à jour la notification.
+     */
+    private void handleAction(Context context, Intent intent) {
         String action = intent.getAction();
-        Log.d(TAG, "Received action: " + action);
         
         if (action == null) return;
         
         // Extraire les données communes
         int notificationId = intent.getIntExtra(EXTRA_NOTIFICATION_ID, -1);
         String checklistId = intent.getStringExtra(EXTRA_CHECKLIST_ID);
+        QuotidTrace.record(QuotidTrace.EVENT_ACTION_RECEIVED, action, notificationId);
         
         if (notificationId == -1 || checklistId == null) {
+            QuotidTrace.record(QuotidTrace.EVENT_ACTION_INVALID, checklistId, notificationId);
             Log.e(TAG, "Données notification manquantes: id=" + notificationId + ", checklistId=" + checklistId);
             return;
         }
@@ -98,6 +123,7 @@ public class NotificationActionReceiver extends BroadcastReceiver {
             case ACTION_CLOSE_NOTIFICATION:
                 // Fermer la notification
                 NotificationManagerCompat.from(context).cancel(notificationId);
+                QuotidTrace.record(QuotidTrace.EVENT_NOTIFICATION_CANCELLED, checklistId, notificationId);
                 break;
         }
     }
@@ -0,0 +1,185 @@
+package com.quotid;
+
+import android.content.ContentValues;
+import android.content.Context;
+import android.database.DatabaseUtils;
+import android.database.sqlite.SQLiteDatabase;
+import android.database.sqlite.SQLiteOpenHelper;
+import android.util.Log;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Ouvre et migre quotid.db côté natif, sur un thread d'arrière-plan, dès que React Native est initialisé.
+ *
+ * Le schéma est versionné avec PRAGMA user_version (géré par SQLiteOpenHelper) : au lancement
+ * à chaud, la version est déjà à jour et aucune requête de schéma n'est exécutée. Le JS ouvre
+ * ensuite le même fichier avec react-native-sqlite-storage, déjà en mode WAL et déjà migré.
+ */
+public class QuotidDatabase extends SQLiteOpenHelper {
+    private static final String TAG = "QuotidDatabase";
+    public static final String DATABASE_NAME = "quotid.db";
+    public static final int SCHEMA_VERSION = 2;
+
+    // Instance singleton
+    private static QuotidDatabase instance;
+
+    // Toutes les opérations natives sur la base passent par ce thread
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "quotid-db");
+        thread.setPriority(Thread.NORM_PRIORITY - 1);
+        return thread;
+    });
+
+    private final Future<SQLiteDatabase> openFuture;
+    private int previousVersion = SCHEMA_VERSION;
+
+    private QuotidDatabase(Context context) {
+        super(context, DATABASE_NAME, null, SCHEMA_VERSION);
+        setWriteAheadLoggingEnabled(true);
+        openFuture = executor.submit(this::open);
+    }
+
+    /**
+     * Obtient l'instance singleton et lance l'ouverture en arrière-plan au premier appel.
+     */
+    public static synchronized QuotidDatabase getInstance(Context context) {
+        if (instance == null) {
+            instance = new QuotidDatabase(context.getApplicationContext());
+        }
+        return instance;
+    }
+
+    /**
+     * Démarre l'ouverture de la base sans bloquer l'appelant.
+     * Appelé par MainApplication.ensureReactNativeLoaded (MainActivity ou hosts React Native),
+     * pas depuis Application.onCreate : les démarrages dus à une notification n'en ont pas besoin.
+     */
+    public static void warmUp(Context context) {
+        getInstance(context);
+    }
+
+    /**
+     * Exécute une tâche sur le thread de la base, après l'ouverture et les migrations.
+     */
+    public void execute(Runnable task) {
+        executor.execute(task);
+    }
+
+    /**
+     * Retourne la base ouverte, en attendant la fin de l'ouverture si nécessaire.
+     * Ne pas appeler depuis le thread principal.
+     */
+    public SQLiteDatabase awaitDatabase() throws Exception {
+        return openFuture.get();
+    }
+
+    /**
+     * Version du schéma trouvée avant les migrations de ce lancement (0 pour une base neuve).
+     */
+    public int getPreviousVersion() {
+        return previousVersion;
+    }
+
+    private SQLiteDatabase open() {
+        long start = System.currentTimeMillis();
+        SQLiteDatabase db = getWritableDatabase();
+        Log.d(TAG, "Base ouverte en " + (System.currentTimeMillis() - start) + " ms (version " + previousVersion + " -> " + SCHEMA_VERSION + ")");
+        return db;
+    }
+
+    @Override
+    public void onCreate(SQLiteDatabase db) {
+        // Les bases créées par les anciennes versions (JS) sont aussi en user_version = 0 :
+        // les migrations doivent donc rester idempotentes
+        onUpgrade(db, 0, SCHEMA_VERSION);
+    }
+
+    @Override
+    public void onUpgrade(SQLiteDatabase db, int oldVersion, int newVersion) {
+        previousVersion = oldVersion;
+        for (int version = oldVersion + 1; version <= newVersion; version++) {
+            migrate(db, version);
+        }
+    }
+
+    /**
+     * Applique la migration vers la version donnée.
+     * SQLiteOpenHelper exécute l'ensemble dans une transaction et met à jour user_version.
+     */
+    private void migrate(SQLiteDatabase db, int version) {
+        switch (version) {
+            case 1:
+                // Schéma initial (auparavant créé par DatabaseContext.tsx)
+                db.execSQL("CREATE TABLE IF NOT EXISTS categories ("
+                        + "id INTEGER PRIMARY KEY AUTOINCREMENT, "
+                        + "name TEXT NOT NULL, "
+                        + "color TEXT NOT NULL, "
+                        + "emoji TEXT, "
+                        + "notification_type TEXT, "
+                        + "created_at INTEGER NOT NULL)");
+
+                db.execSQL("CREATE TABLE IF NOT EXISTS events ("
+                        + "id INTEGER PRIMARY KEY AUTOINCREMENT, "
+                        + "title TEXT NOT NULL, "
+                        + "description TEXT, "
+                        + "category_id INTEGER, "
+                        + "start_time INTEGER NOT NULL, "
+                        + "end_time INTEGER NOT NULL, "
+                        + "location TEXT, "
+                        + "is_completed INTEGER DEFAULT 0, "
+                        + "is_recurring INTEGER DEFAULT 0, "
+                        + "recurrence_rule TEXT, "
+                        + "created_at INTEGER NOT NULL, "
+                        + "updated_at INTEGER NOT NULL, "
+                        + "FOREIGN KEY (category_id) REFERENCES categories (id))");
+
+                db.execSQL("CREATE TABLE IF NOT EXISTS stats ("
+                        + "id INTEGER PRIMARY KEY AUTOINCREMENT, "
+                        + "category_id INTEGER, "
+                        + "date INTEGER NOT NULL, "
+                        + "completed_count INTEGER DEFAULT 0, "
+                        + "planned_count INTEGER DEFAULT 0, "
+                        + "FOREIGN KEY (category_id) REFERENCES categories (id))");
+
+                if (DatabaseUtils.queryNumEntries(db, "categories") == 0) {
+                    insertDefaultCategories(db);
+                }
+                break;
+
+            case 2:
+                // Index couvrants pour les requêtes de chevauchement de dates
+                db.execSQL("CREATE INDEX IF NOT EXISTS idx_events_start_end ON events (start_time, end_time)");
+                db.execSQL("CREATE INDEX IF NOT EXISTS idx_events_end_start ON events (end_time, start_time)");
+                break;
+        }
+    }
+
+    /**
+     * Insère les catégories par défaut.
+     */
+    private void insertDefaultCategories(SQLiteDatabase db) {
+        long now = System.currentTimeMillis();
+        String[][] defaultCategories = {
+                {"Travail", "#3498db", "💼", "work"},
+                {"Sport", "#e74c3c", "🏃", "sport"},
+                {"Repas", "#2ecc71", "🍽️", "meal"},
+                {"Tâches ménagères", "#f39c12", "🧹", "housework"},
+                {"Sommeil", "#9b59b6", "😴", "sleep"},
+                {"Soins personnels", "#1abc9c", "🚿", "selfcare"},
+                {"Soins des animaux", "#f1c40f", "🐾", "pets"}
+        };
+
+        for (String[] category : defaultCategories) {
+            ContentValues values = new ContentValues();
+            values.put("name", category[0]);
+            values.put("color", category[1]);
+            values.put("emoji", category[2]);
+            values.put("notification_type", category[3]);
+            values.put("created_at", now);
+            db.insert("categories", null, values);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.quotid;
+
+import android.database.sqlite.SQLiteDatabase;
+import android.util.Log;
+
+import com.facebook.react.bridge.Arguments;
+import com.facebook.react.bridge.Promise;
+import com.facebook.react.bridge.ReactApplicationContext;
+import com.facebook.react.bridge.ReactContextBaseJavaModule;
+import com.facebook.react.bridge.ReactMethod;
+import com.facebook.react.bridge.WritableMap;
+
+public class QuotidDatabaseModule extends ReactContextBaseJavaModule {
+    private static final String TAG = "QuotidDatabase";
+
+    private final QuotidDatabase database;
+
+    public QuotidDatabaseModule(ReactApplicationContext reactContext) {
+        super(reactContext);
+        // Déjà lancé par MainApplication.ensureReactNativeLoaded, avant la création des modules
+        this.database = QuotidDatabase.getInstance(reactContext);
+    }
+
+    @Override
+    public String getName() {
+        return "QuotidDatabase";
+    }
+
+    /**
+     * Attend que la base soit ouverte et migrée côté natif.
+     *
+     * @param promise Promesse résolue avec {name, version, previousVersion}
+     */
+    @ReactMethod
+    public void waitUntilReady(Promise promise) {
+        database.execute(() -> {
+            try {
+                SQLiteDatabase db = database.awaitDatabase();
+
+                WritableMap result = Arguments.createMap();
+                result.putString("name", QuotidDatabase.DATABASE_NAME);
+                result.putInt("version", db.getVersion());
+                result.putInt("previousVersion", database.getPreviousVersion());
+                promise.resolve(result);
+            } catch (Exception e) {
+                Log.e(TAG, "Erreur lors de l'ouverture de la base", e);
+                promise.reject("database_error", "Erreur lors de l'ouverture de la base: " + e.getMessage(), e);
+            }
+        });
+    }
+}
@@ -0,0 +1,163 @@
+package com.quotid;
+
+import android.os.Process;
+import android.os.SystemClock;
+import android.os.Trace;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Traçage léger pour le chemin des notifications.
+ *
+ * Quand il est activé, chaque étape ouvre une section android.os.Trace (visible dans
+ * Perfetto/systrace) et écrit une entrée dans un tampon circulaire préalloué. Les entrées
+ * ne contiennent que des primitives et des références existantes : aucune chaîne n'est
+ * construite avant l'appel à {@link #dump()}. Désactivé, chaque appel se limite à un test
+ * de booléen.
+ */
+public final class QuotidTrace {
+    // Sections Trace
+    public static final String SECTION_RECEIVE_ACTION = "Quotid:receiveAction";
+    public static final String SECTION_LOAD_CHECKLIST = "Quotid:loadChecklist";
+    public static final String SECTION_SAVE_CHECKLIST = "Quotid:saveChecklist";
+    public static final String SECTION_UPDATE_NOTIFICATION = "Quotid:updateNotification";
+
+    // Types d'entrées du tampon circulaire
+    public static final int EVENT_ACTION_RECEIVED = 1;
+    public static final int EVENT_ACTION_INVALID = 2;
+    public static final int EVENT_CHECKLIST_LOADED = 3;
+    public static final int EVENT_CHECKLIST_SAVED = 4;
+    public static final int EVENT_ITEM_UPDATED = 5;
+    public static final int EVENT_ALL_ITEMS_UPDATED = 6;
+    public static final int EVENT_CHECKLIST_DELETED = 7;
+    public static final int EVENT_NOTIFICATION_UPDATED = 8;
+    public static final int EVENT_NOTIFICATION_CANCELLED = 9;
+    public static final int EVENT_FIRST_ACTION_AFTER_START = 10;
+
+    private static final String[] EVENT_NAMES = {
+            "unknown",
+            "action_received",
+            "action_invalid",
+            "checklist_loaded",
+            "checklist_saved",
+            "item_updated",
+            "all_items_updated",
+            "checklist_deleted",
+            "notification_updated",
+            "notification_cancelled",
+            "first_action_after_start_ms"
+    };
+
+    private static final int CAPACITY = 256;
+
+    private static volatile boolean enabled = BuildConfig.DEBUG;
+
+    // Tampon circulaire préalloué (une entrée = même indice dans chaque tableau)
+    private static final long[] timestamps = new long[CAPACITY];
+    private static final int[] events = new int[CAPACITY];
+    private static final int[] threadIds = new int[CAPACITY];
+    private static final int[] values = new int[CAPACITY];
+    private static final String[] keys = new String[CAPACITY];
+    private static final String[] details = new String[CAPACITY];
+    private static int next;
+    private static long total;
+
+    private QuotidTrace() {
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    public static void setEnabled(boolean value) {
+        enabled = value;
+    }
+
+    /**
+     * Ouvre une section Trace sur le thread courant si le traçage est actif.
+     *
+     * @return Vrai si une section a été ouverte ; à passer tel quel à {@link #endSection(boolean)}
+     */
+    public static boolean beginSection(String name) {
+        if (!enabled) return false;
+
+        Trace.beginSection(name);
+        return true;
+    }
+
+    /**
+     * Ferme la section ouverte par l'appel correspondant à {@link #beginSection(String)}.
+     * La décision est reprise de l'ouverture : changer l'état d'activation entre les deux
+     * ne déséquilibre pas les sections.
+     */
+    public static void endSection(boolean traced) {
+        if (traced) {
+            Trace.endSection();
+        }
+    }
+
+    /**
+     * Enregistre une entrée dans le tampon circulaire.
+     *
+     * @param event Type d'entrée (EVENT_*)
+     * @param key Référence existante (ID de liste, action...) ; jamais une chaîne construite pour l'occasion
+     * @param value Valeur numérique associée
+     */
+    public static void record(int event, String key, int value) {
+        record(event, key, null, value);
+    }
+
+    /**
+     * Enregistre une entrée avec une seconde référence (ex. ID de liste puis ID d'élément).
+     *
+     * @param detail Seconde référence existante, peut être null
+     */
+    public static void record(int event, String key, String detail, int value) {
+        if (!enabled) return;
+
+        synchronized (QuotidTrace.class) {
+            int slot = next;
+            timestamps[slot] = SystemClock.elapsedRealtimeNanos();
+            events[slot] = event;
+            threadIds[slot] = Process.myTid();
+            keys[slot] = key;
+            details[slot] = detail;
+            values[slot] = value;
+            next = (slot + 1) % CAPACITY;
+            total++;
+        }
+    }
+
+    /**
+     * Formate le contenu du tampon, de la plus ancienne à la plus récente entrée.
+     */
+    public static synchronized List<String> dump() {
+        int count = (int) Math.min(total, CAPACITY);
+        int first = (next - count + CAPACITY) % CAPACITY;
+        List<String> lines = new ArrayList<>(count);
+
+        for (int i = 0; i < count; i++) {
+            int slot = (first + i) % CAPACITY;
+            int event = events[slot];
+            String name = event > 0 && event < EVENT_NAMES.length ? EVENT_NAMES[event] : EVENT_NAMES[0];
+            String detail = details[slot] != null ? " detail=" + details[slot] : "";
+            lines.add(timestamps[slot] / 1000 + "us tid=" + threadIds[slot] + " " + name
+                    + " key=" + keys[slot] + detail + " value=" + values[slot]);
+        }
+
+        return lines;
+    }
+
+    /**
+     * Vide le tampon.
+     */
+    public static synchronized void clear() {
+        for (int i = 0; i < CAPACITY; i++) {
+            keys[i] = null;
+            details[i] = null;
+        }
+        next = 0;
+        total = 0;
+    }
+}
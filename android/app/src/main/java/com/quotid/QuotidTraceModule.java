@@ -0,0 +1,50 @@
+package com.quotid;
+
+import com.facebook.react.bridge.Arguments;
+import com.facebook.react.bridge.Promise;
+import com.facebook.react.bridge.ReactApplicationContext;
+import com.facebook.react.bridge.ReactContextBaseJavaModule;
+import com.facebook.react.bridge.ReactMethod;
+import com.facebook.react.bridge.WritableArray;
+
+public class QuotidTraceModule extends ReactContextBaseJavaModule {
+
+    public QuotidTraceModule(ReactApplicationContext reactContext) {
+        super(reactContext);
+    }
+
+    @Override
+    public String getName() {
+        return "QuotidTrace";
+    }
+
+    /**
+     * Active ou désactive le traçage (sections Trace et tampon circulaire).
+     */
+    @ReactMethod
+    public void setEnabled(boolean enabled) {
+        QuotidTrace.setEnabled(enabled);
+    }
+
+    /**
+     * Retourne le contenu du tampon circulaire, de la plus ancienne à la plus récente entrée.
+     *
+     * @param promise Promesse à résoudre avec un tableau de lignes
+     */
+    @ReactMethod
+    public void dump(Promise promise) {
+        WritableArray lines = Arguments.createArray();
+        for (String line : QuotidTrace.dump()) {
+            lines.pushString(line);
+        }
+        promise.resolve(lines);
+    }
+
+    /**
+     * Vide le tampon circulaire.
+     */
+    @ReactMethod
+    public void clear() {
+        QuotidTrace.clear();
+    }
+}
@@ -33,14 +33,30 @@ public class ToastModule extends ReactContextBaseJavaModule {
 
     @ReactMethod
     public void show(String message, int duration) {
-        Toast.makeText(getReactApplicationContext(), message, duration).show();
+        ToastScheduler.getInstance(getReactApplicationContext()).enqueue(message, duration, null);
     }
 
+    /**
+     * Résout la promesse avec "shown", "merged" (fusionné dans un autre toast) ou "dropped".
+     */
     @ReactMethod
     public void showWithPromise(String message, int duration, Promise promise) {
         try {
-            Toast.makeText(getReactApplicationContext(), message, duration).show();
-            promise.resolve(true);
+            ToastScheduler.getInstance(getReactApplicationContext()).enqueue(message, duration, promise::resolve);
+        } catch (Exception e) {
+            promise.reject("ERROR", e.getMessage());
+        }
+    }
+
+    /**
+     * Comme showWithPromise, mais les messages différents du même groupe arrivés en rafale
+     * sont fusionnés en un seul toast affichant le résumé (ex. "{count} tâches terminées").
+     */
+    @ReactMethod
+    public void showGrouped(String message, int duration, String groupKey, String groupSummary, Promise promise) {
+        try {
+            ToastScheduler.getInstance(getReactApplicationContext())
+                    .enqueue(message, groupKey, groupSummary, duration, promise::resolve);
         } catch (Exception e) {
             promise.reject("ERROR", e.getMessage());
         }
@@ -0,0 +1,196 @@
+package com.quotid;
+
+import android.content.Context;
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
+import android.widget.Toast;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * File d'attente des toasts, traitée sur le thread principal.
+ *
+ * Un seul toast est affiché à la fois. Les messages identiques sont fusionnés ("message (×N)").
+ * Des messages différents ne sont fusionnés que si l'appelant leur donne la même clé de groupe
+ * et qu'ils arrivent en rafale : le toast affiche alors le résumé fourni par l'appelant
+ * (ex. "{count} tâches terminées"). La file est bornée et les entrées trop anciennes sont
+ * abandonnées au lieu d'être affichées en retard.
+ */
+public class ToastScheduler {
+    public static final String RESULT_SHOWN = "shown";
+    public static final String RESULT_MERGED = "merged";
+    public static final String RESULT_DROPPED = "dropped";
+
+    private static final int MAX_PENDING = 3;
+    private static final long MERGE_WINDOW_MS = 1500;
+    private static final long STALE_AFTER_MS = 4000;
+
+    // Remplacé par le nombre de messages fusionnés dans le résumé d'un groupe
+    public static final String COUNT_PLACEHOLDER = "{count}";
+
+    // Durées d'affichage du système pour LENGTH_SHORT et LENGTH_LONG
+    private static final long SHORT_DURATION_MS = 2000;
+    private static final long LONG_DURATION_MS = 3500;
+
+    /**
+     * Reçoit le sort d'un message : affiché, fusionné dans un autre toast ou abandonné.
+     */
+    public interface ResultCallback {
+        void onResult(String result);
+    }
+
+    /**
+     * Toast en attente, éventuellement issu de plusieurs messages fusionnés.
+     */
+    private static class PendingToast {
+        final String message;
+        final String groupKey;
+        final String groupSummary;
+        final ResultCallback callback;
+        final List<ResultCallback> mergedCallbacks = new ArrayList<>();
+        int duration;
+        int count = 1;
+        boolean mixed;
+        long lastMessageAt;
+
+        PendingToast(String message, String groupKey, String groupSummary, int duration, ResultCallback callback, long now) {
+            this.message = message;
+            this.groupKey = groupKey;
+            this.groupSummary = groupSummary;
+            this.callback = callback;
+            this.duration = duration;
+            this.lastMessageAt = now;
+        }
+    }
+
+    // Instance singleton
+    private static ToastScheduler instance;
+
+    private final Context context;
+    private final Handler mainHandler = new Handler(Looper.getMainLooper());
+    private final Runnable showNextRunnable = this::showNext;
+
+    // Accédés uniquement depuis le thread principal
+    private final ArrayDeque<PendingToast> pending = new ArrayDeque<>();
+    private long busyUntil;
+
+    private ToastScheduler(Context context) {
+        this.context = context;
+    }
+
+    /**
+     * Obtient l'instance singleton.
+     */
+    public static synchronized ToastScheduler getInstance(Context context) {
+        if (instance == null) {
+            instance = new ToastScheduler(context.getApplicationContext());
+        }
+        return instance;
+    }
+
+    /**
+     * Ajoute un message à la file depuis n'importe quel thread.
+     *
+     * @param callback Appelé sur le thread principal avec RESULT_*, peut être null
+     */
+    public void enqueue(String message, int duration, ResultCallback callback) {
+        enqueue(message, null, null, duration, callback);
+    }
+
+    /**
+     * Ajoute un message qui peut être fusionné avec les autres messages du même groupe.
+     *
+     * @param groupKey Clé de groupe, null pour ne fusionner que les messages identiques
+     * @param groupSummary Texte affiché pour plusieurs messages du groupe, avec {count}
+     * @param callback Appelé sur le thread principal avec RESULT_*, peut être null
+     */
+    public void enqueue(String message, String groupKey, String groupSummary, int duration, ResultCallback callback) {
+        long now = SystemClock.uptimeMillis();
+        mainHandler.post(() -> enqueueOnMainThread(message, groupKey, groupSummary, duration, callback, now));
+    }
+
+    private void enqueueOnMainThread(String message, String groupKey, String groupSummary, int duration,
+                                     ResultCallback callback, long now) {
+        PendingToast last = pending.peekLast();
+
+        if (last != null && canMerge(last, message, groupKey, now)) {
+            // Message identique ou rafale du même groupe : fusionner avec le dernier toast en attente
+            last.mixed |= !last.message.equals(message);
+            last.count++;
+            last.duration = Math.max(last.duration, duration);
+            last.lastMessageAt = now;
+            if (callback != null) {
+                last.mergedCallbacks.add(callback);
+            }
+        } else {
+            if (pending.size() >= MAX_PENDING) {
+                drop(pending.pollFirst());
+            }
+            pending.addLast(new PendingToast(message, groupKey, groupSummary, duration, callback, now));
+        }
+
+        scheduleNext(now);
+    }
+
+    private boolean canMerge(PendingToast last, String message, String groupKey, long now) {
+        if (last.message.equals(message) && !last.mixed) {
+            return true;
+        }
+        return groupKey != null
+                && groupKey.equals(last.groupKey)
+                && last.groupSummary != null
+                && now - last.lastMessageAt < MERGE_WINDOW_MS;
+    }
+
+    private void scheduleNext(long now) {
+        mainHandler.removeCallbacks(showNextRunnable);
+        if (!pending.isEmpty()) {
+            mainHandler.postDelayed(showNextRunnable, Math.max(0, busyUntil - now));
+        }
+    }
+
+    private void showNext() {
+        long now = SystemClock.uptimeMillis();
+
+        // Abandonner les messages qui arriveraient trop tard pour avoir du sens
+        while (!pending.isEmpty() && now - pending.peekFirst().lastMessageAt > STALE_AFTER_MS) {
+            drop(pending.pollFirst());
+        }
+
+        PendingToast toast = pending.pollFirst();
+        if (toast == null) return;
+
+        Toast.makeText(context, buildText(toast), toast.duration).show();
+        busyUntil = now + (toast.duration == Toast.LENGTH_LONG ? LONG_DURATION_MS : SHORT_DURATION_MS);
+
+        deliverResult(toast, RESULT_SHOWN, RESULT_MERGED);
+
+        scheduleNext(now);
+    }
+
+    private String buildText(PendingToast toast) {
+        if (toast.count == 1) {
+            return toast.message;
+        }
+        if (toast.mixed) {
+            return toast.groupSummary.replace(COUNT_PLACEHOLDER, String.valueOf(toast.count));
+        }
+        return context.getString(R.string.toast_repeated_message, toast.message, toast.count);
+    }
+
+    private void drop(PendingToast toast) {
+        deliverResult(toast, RESULT_DROPPED, RESULT_DROPPED);
+    }
+
+    private void deliverResult(PendingToast toast, String result, String mergedResult) {
+        if (toast.callback != null) {
+            toast.callback.onResult(result);
+        }
+        for (ResultCallback callback : toast.mergedCallbacks) {
+            callback.onResult(mergedResult);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.quotid;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeSet;
+
+/**
+ * Compare l'arbre d'intervalles implicite à une recherche exhaustive.
+ */
+public class EventIntervalIndexTest {
+    private static final int RUNS = 3000;
+    private static final int QUERIES_PER_RUN = 20;
+
+    @Test
+    public void emptyIndexReturnsNothing() {
+        EventIntervalIndex index = new EventIntervalIndex();
+        assertEquals(0, index.queryOverlapping(0, 1000).length);
+    }
+
+    @Test
+    public void findsEventsSpanningTheWholeRange() {
+        EventIntervalIndex index = new EventIntervalIndex();
+        index.upsert(1, 0, 10_000);   // Sur plusieurs jours
+        index.upsert(2, 500, 600);    // Dans la plage
+        index.upsert(3, 2000, 2100);  // Après la plage
+        index.upsert(4, 100, 400);    // Se termine au début de la plage
+
+        assertArrayEquals(new long[]{1, 4, 2}, index.queryOverlapping(400, 1000));
+    }
+
+    @Test
+    public void matchesBruteForceWithInterleavedEdits() {
+        Random random = new Random(42);
+
+        for (int run = 0; run < RUNS; run++) {
+            EventIntervalIndex index = new EventIntervalIndex();
+            Map<Long, long[]> expected = new HashMap<>();
+
+            // Jusqu'à 600 événements pour dépasser la capacité initiale (256)
+            int count = random.nextInt(600);
+            for (long id = 0; id < count; id++) {
+                put(index, expected, id, random);
+            }
+
+            for (int query = 0; query < QUERIES_PER_RUN; query++) {
+                int maxId = count + 5;
+                if (random.nextBoolean()) {
+                    long id = random.nextInt(maxId);
+                    index.remove(id);
+                    expected.remove(id);
+                }
+                if (random.nextBoolean()) {
+                    put(index, expected, random.nextInt(maxId), random);
+                }
+
+                long from = random.nextInt(1100) - 50;
+                long to = from + random.nextInt(100);
+                assertOverlapping(expected, index.queryOverlapping(from, to), from, to);
+            }
+        }
+    }
+
+    private static void put(EventIntervalIndex index, Map<Long, long[]> expected, long id, Random random) {
+        long start = random.nextInt(1000);
+        // Quelques événements longs pour exercer les fins maximales des sous-arbres
+        long end = start + (random.nextInt(10) == 0 ? random.nextInt(500) : random.nextInt(20));
+        index.upsert(id, start, end);
+        expected.put(id, new long[]{start, end});
+    }
+
+    private static void assertOverlapping(Map<Long, long[]> intervals, long[] actual, long from, long to) {
+        TreeSet<Long> expectedIds = new TreeSet<>();
+        for (Map.Entry<Long, long[]> entry : intervals.entrySet()) {
+            if (entry.getValue()[0] <= to && entry.getValue()[1] >= from) {
+                expectedIds.add(entry.getKey());
+            }
+        }
+
+        TreeSet<Long> actualIds = new TreeSet<>();
+        long previousStart = Long.MIN_VALUE;
+        for (long id : actual) {
+            actualIds.add(id);
+            // Résultats triés par début
+            long start = intervals.get(id)[0];
+            assertTrue("résultats non triés par début", start >= previousStart);
+            previousStart = start;
+        }
+
+        assertEquals("doublons dans le résultat", actual.length, actualIds.size());
+        assertEquals("chevauchement [" + from + ", " + to + "]", expectedIds, actualIds);
+    }
+}
@@ -1,9 +1,31 @@
 import React, {createContext, useState, useEffect, useContext, ReactNode} from 'react';
+import {NativeModules, Platform} from 'react-native';
 import SQLite from 'react-native-sqlite-storage';
 
 // Initialiser SQLite
 SQLite.enablePromise(true);
 
+// Module natif qui ouvre et migre la base au démarrage (Android)
+const {QuotidDatabase: NativeQuotidDatabase} = NativeModules;
+
+/**
+ * Attend l'ouverture native de la base.
+ * Retourne false si le module natif n'est pas disponible : le schéma doit alors être créé en JS.
+ */
+const waitForNativeDatabase = async (): Promise<boolean> => {
+  if (Platform.OS !== 'android' || NativeQuotidDatabase == null) {
+    return false;
+  }
+
+  try {
+    await NativeQuotidDatabase.waitUntilReady();
+    return true;
+  } catch (e) {
+    console.warn('QuotidDatabase: ouverture native impossible, création du schéma en JS', e);
+    return false;
+  }
+};
+
 interface DatabaseContextType {
   database: SQLite.SQLiteDatabase | null;
   isLoading: boolean;
@@ -32,14 +54,20 @@ export const DatabaseProvider = ({children}: DatabaseProviderProps) => {
   useEffect(() => {
     const initDatabase = async () => {
       try {
-        // Ouvrir ou créer la base de données
+        // L'ouverture native démarre dans MainApplication.ensureReactNativeLoaded (depuis MainActivity
+        // ou les hosts React Native) et se fait en arrière-plan pendant le chargement du JS
+        const isNativeReady = await waitForNativeDatabase();
+
+        // Ouvrir la base de données
         const db = await SQLite.openDatabase({
           name: 'quotid.db',
           location: 'default',
         });
 
-        // Créer les tables si elles n'existent pas
-        await createTables(db);
+        // Créer les tables si le module natif n'a pas pu le faire
+        if (!isNativeReady) {
+          await createTables(db);
+        }
 
         setDatabase(db);
         setIsLoading(false);
@@ -92,6 +120,14 @@ export const DatabaseProvider = ({children}: DatabaseProviderProps) => {
       );
     `);
     
+    // Index pour les requêtes de chevauchement de dates (migration 2 côté natif)
+    await db.executeSql(
+      'CREATE INDEX IF NOT EXISTS idx_events_start_end ON events (start_time, end_time);',
+    );
+    await db.executeSql(
+      'CREATE INDEX IF NOT EXISTS idx_events_end_start ON events (end_time, start_time);',
+    );
+
     // Table pour stocker les statistiques de progression
     await db.executeSql(`
       CREATE TABLE IF NOT EXISTS stats (
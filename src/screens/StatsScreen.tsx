@@ -17,6 +17,7 @@ import {
   getStatsByCategory,
   getStatsOverTime,
   getStatsSummary,
+  getCompletionOverview,
 } from '../services/statsService';
 import {formatDate, getStartOfDay} from '../utils/dateUtils';
 
@@ -31,6 +32,7 @@ const StatsScreen = () => {
   const [categoryStats, setCategoryStats] = useState<any[]>([]);
   const [timeStats, setTimeStats] = useState<any[]>([]);
   const [summary, setSummary] = useState<any | null>(null);
+  const [overview, setOverview] = useState<any | null>(null);
 
   // Déterminer les dates de début et de fin en fonction de la plage de temps sélectionnée
   const getDateRange = () => {
@@ -76,6 +78,10 @@ const StatsScreen = () => {
         // Charger le résumé des statistiques
         const statsSummary = await getStatsSummary(database, startDate, endDate);
         setSummary(statsSummary);
+
+        // Charger les séries de complétion (calculées par le module natif)
+        const completionOverview = await getCompletionOverview(database);
+        setOverview(completionOverview);
       } catch (error) {
         console.error('Error loading stats:', error);
       } finally {
@@ -302,6 +308,48 @@ const StatsScreen = () => {
                 </View>
               </View>
 
+              {/* Séries de complétion */}
+              {overview && (
+                <View style={styles.summaryRow}>
+                  <View style={styles.summaryItem}>
+                    <Text
+                      style={[
+                        styles.summaryValue,
+                        {color: theme.primary},
+                      ]}>
+                      {overview.currentStreak}
+                    </Text>
+                    <Text style={[styles.summaryLabel, {color: theme.text}]}>
+                      Série actuelle
+                    </Text>
+                  </View>
+                  <View style={styles.summaryItem}>
+                    <Text
+                      style={[
+                        styles.summaryValue,
+                        {color: theme.primary},
+                      ]}>
+                      {overview.longestStreak}
+                    </Text>
+                    <Text style={[styles.summaryLabel, {color: theme.text}]}>
+                      Plus longue série
+                    </Text>
+                  </View>
+                  <View style={styles.summaryItem}>
+                    <Text
+                      style={[
+                        styles.summaryValue,
+                        {color: theme.primary},
+                      ]}>
+                      {overview.activeDays}
+                    </Text>
+                    <Text style={[styles.summaryLabel, {color: theme.text}]}>
+                      Jours actifs
+                    </Text>
+                  </View>
+                </View>
+              )}
+
               {/* Meilleures et pires catégories */}
               <View style={styles.categoryHighlights}>
                 {summary.bestCategory && (
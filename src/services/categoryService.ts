@@ -1,5 +1,6 @@
 import SQLite from 'react-native-sqlite-storage';
 import {Category} from '../models/Category';
+import {invalidateCompletionStats} from './statsService';
 
 /**
  * Récupère toutes les catégories
@@ -159,6 +160,9 @@ export const deleteCategory = async (
       // Supprimer la catégorie
       await tx.executeSql('DELETE FROM categories WHERE id = ?', [categoryId]);
     });
+
+    // Les événements détachés changent de catégorie dans le moteur natif de séries
+    invalidateCompletionStats();
   } catch (error) {
     console.error('Error deleting category:', error);
     throw error;
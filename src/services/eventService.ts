@@ -1,6 +1,11 @@
 import SQLite from 'react-native-sqlite-storage';
 import {Event} from '../models/Event';
 import {getStartOfDay, getEndOfDay} from '../utils/dateUtils';
+import EventIntervals from '../utils/EventIntervals';
+import {invalidateCompletionStats} from './statsService';
+
+// Au-delà, la liste d'IDs dépasserait la limite de paramètres SQLite
+const MAX_IDS_PER_QUERY = 500;
 
 /**
  * Récupère tous les événements pour une date spécifique
@@ -13,13 +18,37 @@ export const getEventsForDate = async (
   const endOfDay = getEndOfDay(date).getTime();
 
   try {
+    let whereClause = 'e.start_time <= ? AND e.end_time >= ?';
+    let params: number[] = [endOfDay, startOfDay];
+
+    // Utiliser l'arbre d'intervalles natif pour trouver les événements qui chevauchent la journée
+    if (EventIntervals.isAvailable()) {
+      let ids: number[] | null = null;
+      try {
+        ids = await EventIntervals.getOverlappingEventIds(startOfDay, endOfDay);
+      } catch (nativeError) {
+        // Base native indisponible : rester sur la requête SQL de chevauchement
+        console.warn('EventIntervals: index natif indisponible, requête SQL utilisée', nativeError);
+      }
+
+      if (ids !== null) {
+        if (ids.length === 0) {
+          return [];
+        }
+        if (ids.length <= MAX_IDS_PER_QUERY) {
+          whereClause = `e.id IN (${ids.map(() => '?').join(', ')})`;
+          params = ids;
+        }
+      }
+    }
+
     const [result] = await db.executeSql(
       `SELECT e.*, c.color, c.emoji, c.notification_type as notificationType 
        FROM events e 
        LEFT JOIN categories c ON e.category_id = c.id 
-       WHERE (e.start_time BETWEEN ? AND ?) OR (e.end_time BETWEEN ? AND ?)
+       WHERE ${whereClause}
        ORDER BY e.start_time ASC`,
-      [startOfDay, endOfDay, startOfDay, endOfDay],
+      params,
     );
 
     const events: Event[] = [];
@@ -126,6 +155,8 @@ export const createEvent = async (
       ],
     );
 
+    EventIntervals.upsertEvent(result.insertId, event.startTime, event.endTime);
+
     return result.insertId;
   } catch (error) {
     console.error('Error creating event:', error);
@@ -198,6 +229,41 @@ export const updateEvent = async (
       `UPDATE events SET ${fields.join(', ')} WHERE id = ?`,
       values,
     );
+
+    // Les horaires ont changé : mettre à jour l'événement en place dans l'index natif
+    if (
+      EventIntervals.isAvailable() &&
+      (updates.startTime !== undefined || updates.endTime !== undefined)
+    ) {
+      let startTime = updates.startTime;
+      let endTime = updates.endTime;
+
+      // Une seule borne modifiée : relire l'autre depuis la ligne mise à jour
+      if (startTime === undefined || endTime === undefined) {
+        const [result] = await db.executeSql(
+          'SELECT start_time, end_time FROM events WHERE id = ?',
+          [eventId],
+        );
+        if (result.rows.length > 0) {
+          const item = result.rows.item(0);
+          startTime = item.start_time;
+          endTime = item.end_time;
+        }
+      }
+
+      if (startTime !== undefined && endTime !== undefined) {
+        EventIntervals.upsertEvent(eventId, startTime, endTime);
+      }
+    }
+
+    // Jour, catégorie ou état de complétion modifiés : les séries doivent être recalculées
+    if (
+      updates.startTime !== undefined ||
+      updates.categoryId !== undefined ||
+      updates.isCompleted !== undefined
+    ) {
+      invalidateCompletionStats();
+    }
   } catch (error) {
     console.error('Error updating event:', error);
     throw error;
@@ -213,6 +279,8 @@ export const deleteEvent = async (
 ): Promise<void> => {
   try {
     await db.executeSql('DELETE FROM events WHERE id = ?', [eventId]);
+    EventIntervals.removeEvent(eventId);
+    invalidateCompletionStats();
   } catch (error) {
     console.error('Error deleting event:', error);
     throw error;
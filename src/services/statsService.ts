@@ -1,5 +1,10 @@
 import SQLite from 'react-native-sqlite-storage';
 import {formatDate, parseDate, getStartOfDay, getEndOfDay} from '../utils/dateUtils';
+import CompletionStats, {
+  ALL_CATEGORIES,
+  CompletionEntry,
+  CompletionOverview,
+} from '../utils/CompletionStats';
 
 interface StatsByCategory {
   categoryId: number;
@@ -42,6 +47,9 @@ export const updateStatsForEvent = async (
     const eventDate = new Date(event.start_time);
     const dateString = formatDate(eventDate);
 
+    // Mise à jour incrémentale du moteur natif de séries
+    CompletionStats.record(categoryId || ALL_CATEGORIES, event.start_time, isCompleted ? 1 : -1);
+
     // Si aucune catégorie n'est associée, ne pas mettre à jour les stats
     if (!categoryId) {
       return;
@@ -277,3 +285,62 @@ export const getStatsSummary = async (
     throw error;
   }
 };
+
+// Base de données avec laquelle le moteur natif a déjà été chargé
+let loadedCompletionDatabase: SQLite.SQLiteDatabase | null = null;
+
+/**
+ * Charge le moteur natif de séries avec les événements terminés (une seule fois par base)
+ */
+const loadCompletionStats = async (db: SQLite.SQLiteDatabase): Promise<void> => {
+  if (loadedCompletionDatabase === db || !CompletionStats.isAvailable()) {
+    return;
+  }
+
+  const [result] = await db.executeSql(
+    'SELECT category_id, start_time FROM events WHERE is_completed = 1',
+  );
+
+  // Regrouper par catégorie et par jour avant de traverser le bridge
+  const entriesByKey: {[key: string]: CompletionEntry} = {};
+  for (let i = 0; i < result.rows.length; i++) {
+    const item = result.rows.item(i);
+    const categoryId = item.category_id || ALL_CATEGORIES;
+    const date = getStartOfDay(new Date(item.start_time)).getTime();
+    const key = `${categoryId}-${date}`;
+
+    if (entriesByKey[key]) {
+      entriesByKey[key].count += 1;
+    } else {
+      entriesByKey[key] = {categoryId, date, count: 1};
+    }
+  }
+
+  await CompletionStats.load(Object.values(entriesByKey));
+  loadedCompletionDatabase = db;
+};
+
+/**
+ * Force le rechargement du moteur natif de séries au prochain affichage des statistiques
+ * (suppression d'événement, changement de catégorie ou de date...)
+ */
+export const invalidateCompletionStats = (): void => {
+  loadedCompletionDatabase = null;
+};
+
+/**
+ * Récupère les séries de complétion, la heatmap sur un an et la répartition par jour de la semaine
+ * (null si le module natif n'est pas disponible, ex. sur iOS)
+ */
+export const getCompletionOverview = async (
+  db: SQLite.SQLiteDatabase,
+  categoryId: number = ALL_CATEGORIES,
+): Promise<CompletionOverview | null> => {
+  try {
+    await loadCompletionStats(db);
+    return await CompletionStats.getOverview(categoryId);
+  } catch (error) {
+    console.error('Error fetching completion overview:', error);
+    throw error;
+  }
+};
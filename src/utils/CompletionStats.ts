@@ -0,0 +1,91 @@
+/**
+ * CompletionStats - Interface JavaScript pour le module natif CompletionStatsModule
+ *
+ * Le module natif garde, par catégorie, un bitmap des jours avec des tâches terminées.
+ * Séries, heatmap et répartition par jour de la semaine sont calculées côté natif
+ * sans relire la table stats à chaque affichage.
+ */
+
+import {NativeModules, Platform} from 'react-native';
+
+const {CompletionStats: NativeCompletionStats} = NativeModules;
+
+// Identifiant regroupant toutes les catégories
+export const ALL_CATEGORIES = 0;
+
+// Entrée utilisée pour (re)charger le moteur natif
+export interface CompletionEntry {
+  categoryId: number;
+  date: number; // Timestamp du jour
+  count: number;
+}
+
+// Résultat renvoyé par le moteur natif
+export interface CompletionOverview {
+  currentStreak: number;
+  longestStreak: number;
+  activeDays: number;
+  heatmap: number[]; // 365 jours, le dernier élément correspond à aujourd'hui
+  weekdayDistribution: number[]; // 0 = dimanche
+}
+
+/**
+ * Module pour les statistiques de complétion
+ */
+class CompletionStats {
+  /**
+   * Vérifie si le module natif est disponible
+   */
+  isAvailable(): boolean {
+    return Platform.OS === 'android' && NativeCompletionStats != null;
+  }
+
+  /**
+   * Recharge entièrement le moteur natif
+   *
+   * @param entries Les complétions regroupées par catégorie et par jour
+   */
+  async load(entries: CompletionEntry[]): Promise<void> {
+    if (!this.isAvailable()) {
+      return;
+    }
+
+    await NativeCompletionStats.loadCompletions(entries);
+  }
+
+  /**
+   * Met à jour le moteur natif après avoir coché ou décoché un événement
+   *
+   * @param categoryId La catégorie de l'événement (ALL_CATEGORIES si aucune)
+   * @param date La date de l'événement
+   * @param delta +1 si l'événement est terminé, -1 sinon
+   */
+  record(categoryId: number, date: number, delta: number): void {
+    if (!this.isAvailable()) {
+      return;
+    }
+
+    NativeCompletionStats.recordCompletion(categoryId, date, delta);
+  }
+
+  /**
+   * Récupère séries, heatmap et répartition hebdomadaire
+   *
+   * @param categoryId La catégorie (ALL_CATEGORIES par défaut)
+   * @returns Une promesse qui se résout avec les statistiques, ou null sans module natif
+   */
+  async getOverview(categoryId: number = ALL_CATEGORIES): Promise<CompletionOverview | null> {
+    if (!this.isAvailable()) {
+      return null;
+    }
+
+    try {
+      return await NativeCompletionStats.getCompletionStats(categoryId, Date.now());
+    } catch (error) {
+      console.error('CompletionStats: Erreur lors du calcul des statistiques', error);
+      throw error;
+    }
+  }
+}
+
+export default new CompletionStats();
@@ -0,0 +1,61 @@
+/**
+ * EventIntervals - Interface JavaScript pour le module natif EventIntervalsModule
+ *
+ * Le module natif garde un arbre d'intervalles des événements et répond en temps
+ * logarithmique à la question "quels événements chevauchent [début, fin] ?".
+ */
+
+import {NativeModules, Platform} from 'react-native';
+
+const {EventIntervals: NativeEventIntervals} = NativeModules;
+
+/**
+ * Module pour l'index natif des intervalles d'événements
+ */
+class EventIntervals {
+  /**
+   * Vérifie si le module natif est disponible
+   */
+  isAvailable(): boolean {
+    return Platform.OS === 'android' && NativeEventIntervals != null;
+  }
+
+  /**
+   * Récupère les IDs des événements qui chevauchent la plage, triés par heure de début
+   *
+   * @param from Début de la plage (timestamp)
+   * @param to Fin de la plage (timestamp)
+   */
+  async getOverlappingEventIds(from: number, to: number): Promise<number[]> {
+    return await NativeEventIntervals.getOverlappingEventIds(from, to);
+  }
+
+  /**
+   * Ajoute ou met à jour un événement dans l'index
+   */
+  upsertEvent(id: number, startTime: number, endTime: number): void {
+    if (this.isAvailable()) {
+      NativeEventIntervals.upsertEvent(id, startTime, endTime);
+    }
+  }
+
+  /**
+   * Retire un événement de l'index
+   */
+  removeEvent(id: number): void {
+    if (this.isAvailable()) {
+      NativeEventIntervals.removeEvent(id);
+    }
+  }
+
+  /**
+   * Force le rechargement de l'index depuis la base
+   */
+  invalidate(): void {
+    if (this.isAvailable()) {
+      NativeEventIntervals.invalidate();
+    }
+  }
+}
+
+export default new EventIntervals();
@@ -22,6 +22,19 @@ export const showToast = (message) => {
   }
 };
 
+/**
+ * Affiche un toast pouvant être regroupé avec les autres toasts du même groupe
+ * (ex. plusieurs tâches terminées en rafale → "{count} tâches terminées").
+ * Résout avec "shown", "merged" ou "dropped", ou false hors Android.
+ */
+export const showGroupedToast = async (message, groupKey, groupSummary) => {
+  if (Platform.OS === 'android' && ToastModule) {
+    return ToastModule.showGrouped(message, ToastModule.SHORT, groupKey, groupSummary);
+  }
+  console.log('Toast non disponible sur cette plateforme');
+  return false;
+};
+
 /**
  * Vérifie si les notifications sont actives pour l'application.
  * C'est une fonction de diagnostic.
@@ -48,5 +61,6 @@ export const checkNotificationStatus = () => {
 
 export default {
   showToast,
+  showGroupedToast,
   checkNotificationStatus
 };